@@ -1,8 +1,7 @@
 package com.example.quizgame.client;
 
+import com.example.quizgame.client.channel.ChannelPool;
 import com.exemple.quizgame.proto.*;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
 import javafx.animation.*;
 import javafx.application.Application;
 import javafx.geometry.Insets;
@@ -19,12 +18,14 @@ import javafx.util.Duration;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 public class QuizGameApp extends Application {
     private QuizGameGrpc.QuizGameBlockingStub stub;
     private String currentPlayer;
     private Quiz currentQuiz;
     private int currentQuestionIndex = 0;
+    private long questionShownAt;
     private GetQuizResponse quizResponse;
     
     // Define theme colors
@@ -87,9 +88,7 @@ public class QuizGameApp extends Application {
 
     @Override
     public void start(Stage primaryStage) {
-        ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", 50051)
-                .usePlaintext()
-                .build();
+        ChannelPool channel = ChannelPool.fromSystemProperties();
         stub = QuizGameGrpc.newBlockingStub(channel);
 
         VBox mainLayout = new VBox(20);
@@ -109,7 +108,7 @@ public class QuizGameApp extends Application {
         showPlayerRegistration(mainLayout, primaryStage);
 
         primaryStage.setOnCloseRequest(e -> {
-            channel.shutdown();
+            channel.close();
             Platform.exit();
         });
     }
@@ -235,6 +234,8 @@ public class QuizGameApp extends Application {
         applyEntranceAnimation(questionText);
         applyEntranceAnimation(answersBox);
         applyEntranceAnimation(submitButton);
+
+        questionShownAt = System.nanoTime();
     }
 
     private void submitAnswer(int answer, VBox mainLayout, Stage primaryStage) {
@@ -243,6 +244,7 @@ public class QuizGameApp extends Application {
                     .setPlayerName(currentPlayer)
                     .setQuizId(currentQuiz.getId())
                     .setAnswer(answer)
+                    .setAnswerTimeMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - questionShownAt))
                     .build();
 
             PlayResponse playResponse = stub.play(playRequest);
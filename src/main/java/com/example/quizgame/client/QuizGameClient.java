@@ -1,18 +1,16 @@
 package com.example.quizgame.client;
 
 import com.exemple.quizgame.proto.*;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import com.example.quizgame.client.channel.ChannelPool;
 
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 
 public class QuizGameClient {
 
     public static void main(String[] args) {
-        // Create a channel to connect to the server
-        ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", 50051)
-                .usePlaintext()
-                .build();
+        // Create a channel pool to connect to the configured servers
+        ChannelPool channel = ChannelPool.fromSystemProperties();
 
         // Create a stub to use the service
         QuizGameGrpc.QuizGameBlockingStub stub = QuizGameGrpc.newBlockingStub(channel);
@@ -46,7 +44,7 @@ public class QuizGameClient {
         }
 
         // Shutdown channel and scanner
-        channel.shutdown();
+        channel.close();
         scanner.close();
     }
 
@@ -65,6 +63,7 @@ public class QuizGameClient {
             System.out.println("2. " + quiz.getAnswer2());
             System.out.println("3. " + quiz.getAnswer3());
             System.out.println("4. " + quiz.getAnswer4());
+            long shownAt = System.nanoTime();
 
             int answer = 0;
             while (answer < 1 || answer > 4) {
@@ -84,6 +83,7 @@ public class QuizGameClient {
                     .setPlayerName(playerName)
                     .setQuizId(quiz.getId())
                     .setAnswer(answer)
+                    .setAnswerTimeMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - shownAt))
                     .build();
             PlayResponse playResponse = stub.play(playRequest);
 
@@ -0,0 +1,292 @@
+package com.example.quizgame.client.channel;
+
+import com.exemple.quizgame.proto.QuizGameGrpc;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link Channel} that spreads calls over every configured server. Every call gets a
+ * default deadline when the caller did not set one.
+ *
+ * Idempotent quiz reads ({@code GetQuiz}, {@code GetQuestion}) go through one balanced channel
+ * that uses gRPC's {@code round_robin} policy over all servers, which only picks servers with a
+ * ready connection. Those reads are hedged: if an attempt has not answered within the hedging
+ * delay another one is sent, and it gets its own pick from {@code round_robin}. The picker's
+ * position is shared by every call on the channel, so a hedged attempt usually goes to another
+ * server but can land on the same slow one.
+ *
+ * Servers do not share state: each one keeps its own players, scores and answer stats in memory.
+ * Calls that read or change that state ({@code RegisterPlayer}, {@code Play},
+ * {@code GetPlayerScores}, {@code GetQuestionStats}) are therefore pinned to one server per pool. The pool only moves them to another server when the
+ * pinned one is in {@code TRANSIENT_FAILURE}; players registered on the old server are unknown on
+ * the new one, so they must register again.
+ *
+ * Stubs can be built directly on the pool and kept for the lifetime of the client:
+ * <pre>
+ *     ChannelPool pool = ChannelPool.fromSystemProperties();
+ *     QuizGameGrpc.QuizGameBlockingStub stub = QuizGameGrpc.newBlockingStub(pool);
+ * </pre>
+ */
+public final class ChannelPool extends Channel implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ChannelPool.class);
+
+    public static final String SERVERS_PROPERTY = "quizgame.servers";
+    public static final String DEADLINE_PROPERTY = "quizgame.deadlineMillis";
+
+    static final String DEFAULT_SERVERS = "localhost:50051";
+    static final long DEFAULT_DEADLINE_MILLIS = 2000;
+
+    private static final List<String> HEDGED_METHODS = List.of("GetQuiz", "GetQuestion");
+    private static final List<String> PINNED_METHODS = List.of("RegisterPlayer", "Play", "GetPlayerScores", "GetQuestionStats");
+    private static final Set<String> PINNED_FULL_NAMES = PINNED_METHODS.stream()
+            .map(name -> MethodDescriptor.generateFullMethodName(QuizGameGrpc.SERVICE_NAME, name))
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final ManagedChannel balanced;
+    private final List<Endpoint> endpoints;
+    private final long deadlineMillis;
+    private final AtomicReference<Endpoint> pinned = new AtomicReference<>();
+
+    private ChannelPool(ManagedChannel balanced, List<Endpoint> endpoints, long deadlineMillis) {
+        this.balanced = balanced;
+        this.endpoints = endpoints;
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    /**
+     * Builds a pool from the {@code quizgame.servers} (comma separated {@code host:port} list)
+     * and {@code quizgame.deadlineMillis} system properties.
+     */
+    public static ChannelPool fromSystemProperties() {
+        List<String> servers = Arrays.asList(System.getProperty(SERVERS_PROPERTY, DEFAULT_SERVERS).split(","));
+        long deadlineMillis = parseDeadline(System.getProperty(DEADLINE_PROPERTY, String.valueOf(DEFAULT_DEADLINE_MILLIS)));
+        return create(servers, deadlineMillis);
+    }
+
+    static long parseDeadline(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + DEADLINE_PROPERTY + " '" + value
+                    + "', expected a positive number of milliseconds");
+        }
+    }
+
+    public static ChannelPool create(List<String> servers, long deadlineMillis) {
+        if (deadlineMillis <= 0) {
+            throw new IllegalArgumentException("Deadline must be positive: " + deadlineMillis);
+        }
+
+        List<String> targets = new ArrayList<>();
+        for (String server : servers) {
+            String target = server.trim();
+            if (!target.isEmpty()) {
+                targets.add(target);
+            }
+        }
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("At least one server address is required");
+        }
+
+        ManagedChannel balanced = buildBalancedChannel(targets);
+
+        // With one server everything can share the balanced channel; otherwise keep a channel
+        // per server for pinned calls and start connecting them so their state is known early
+        List<Endpoint> endpoints = new ArrayList<>();
+        if (targets.size() > 1) {
+            for (String target : targets) {
+                Endpoint endpoint = new Endpoint(target, buildEndpointChannel(target));
+                endpoint.channel.getState(true);
+                endpoints.add(endpoint);
+            }
+        }
+
+        logger.info("Created channel pool for {} server(s)", targets.size());
+        return new ChannelPool(balanced, Collections.unmodifiableList(endpoints), deadlineMillis);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static ManagedChannel buildBalancedChannel(List<String> targets) {
+        return keepAlive(ManagedChannelBuilder.forTarget(StaticNameResolverFactory.SCHEME + ":///servers"))
+                .nameResolverFactory(new StaticNameResolverFactory(targets))
+                .defaultServiceConfig(serviceConfig())
+                .enableRetry()
+                .build();
+    }
+
+    private static ManagedChannel buildEndpointChannel(String target) {
+        return keepAlive(ManagedChannelBuilder.forTarget(target)).build();
+    }
+
+    private static ManagedChannelBuilder<?> keepAlive(ManagedChannelBuilder<?> builder) {
+        return builder
+                .usePlaintext()
+                .keepAliveTime(30, TimeUnit.SECONDS)
+                .keepAliveTimeout(10, TimeUnit.SECONDS)
+                .keepAliveWithoutCalls(true);
+    }
+
+    /**
+     * Service config for the balanced channel. Idempotent reads are hedged: another attempt is
+     * sent if the earlier ones have not answered within the hedging delay, and the first response
+     * wins. Player calls are never retried since replaying them could register a player twice or
+     * double a score. Retry throttling stops hedging from piling more load onto the servers when
+     * most attempts are failing.
+     */
+    static Map<String, Object> serviceConfig() {
+        List<Map<String, Object>> names = new ArrayList<>();
+        for (String name : HEDGED_METHODS) {
+            names.add(Map.of("service", QuizGameGrpc.SERVICE_NAME, "method", name));
+        }
+        Map<String, Object> reads = Map.of(
+                "name", names,
+                "hedgingPolicy", Map.of(
+                        "maxAttempts", 3.0,
+                        "hedgingDelay", "0.1s",
+                        "nonFatalStatusCodes", List.of("UNAVAILABLE")));
+
+        return Map.of(
+                "loadBalancingConfig", List.of(Map.of("round_robin", Map.of())),
+                "methodConfig", List.of(reads),
+                "retryThrottling", Map.of(
+                        "maxTokens", 10.0,
+                        "tokenRatio", 0.1));
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions) {
+        if (callOptions.getDeadline() == null) {
+            callOptions = callOptions.withDeadlineAfter(deadlineMillis, TimeUnit.MILLISECONDS);
+        }
+        if (endpoints.isEmpty() || !PINNED_FULL_NAMES.contains(method.getFullMethodName())) {
+            return balanced.newCall(method, callOptions);
+        }
+        return pinnedEndpoint().channel.newCall(method, callOptions);
+    }
+
+    @Override
+    public String authority() {
+        return balanced.authority();
+    }
+
+    /**
+     * Returns the server that player calls are pinned to, choosing one on first use and
+     * replacing it only when it is in {@code TRANSIENT_FAILURE}.
+     */
+    private Endpoint pinnedEndpoint() {
+        Endpoint current = pinned.get();
+        if (current != null && current.channel.getState(true) != ConnectivityState.TRANSIENT_FAILURE) {
+            return current;
+        }
+        Endpoint chosen = choose(current);
+        if (!pinned.compareAndSet(current, chosen)) {
+            return pinned.get();
+        }
+        if (current != null && chosen != current) {
+            logger.warn("Server {} is down, moving player calls to {}; players must register again", current, chosen);
+        }
+        return chosen;
+    }
+
+    /**
+     * Picks a server to pin to, starting at a random offset so clients spread over the servers.
+     * A server that is down switches between {@code TRANSIENT_FAILURE} and {@code CONNECTING}
+     * while it backs off, so only {@code READY} servers are trusted. Otherwise prefer servers
+     * that are not known to be failing, and keep {@code failed} only as the last resort.
+     */
+    private Endpoint choose(Endpoint failed) {
+        int size = endpoints.size();
+        int start = ThreadLocalRandom.current().nextInt(size);
+        Endpoint best = null;
+        int bestRank = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Endpoint candidate = endpoints.get((start + i) % size);
+            int rank = rank(candidate, failed);
+            if (rank < bestRank) {
+                best = candidate;
+                bestRank = rank;
+            }
+        }
+        return best;
+    }
+
+    private static int rank(Endpoint endpoint, Endpoint failed) {
+        if (endpoint == failed) {
+            return 3;
+        }
+        switch (endpoint.channel.getState(true)) {
+            case READY:
+                return 0;
+            case IDLE:
+            case CONNECTING:
+                return 1;
+            default:
+                return 2;
+        }
+    }
+
+    public void shutdown() {
+        balanced.shutdown();
+        for (Endpoint endpoint : endpoints) {
+            endpoint.channel.shutdown();
+        }
+    }
+
+    /**
+     * Shuts down every channel and waits briefly for in-flight calls before forcing them closed.
+     */
+    @Override
+    public void close() {
+        shutdown();
+        List<ManagedChannel> channels = new ArrayList<>();
+        channels.add(balanced);
+        for (Endpoint endpoint : endpoints) {
+            channels.add(endpoint.channel);
+        }
+        try {
+            for (ManagedChannel channel : channels) {
+                if (!channel.awaitTermination(5, TimeUnit.SECONDS)) {
+                    channel.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (ManagedChannel channel : channels) {
+                channel.shutdownNow();
+            }
+        }
+    }
+
+    private static final class Endpoint {
+        private final String target;
+        private final ManagedChannel channel;
+
+        private Endpoint(String target, ManagedChannel channel) {
+            this.target = target;
+            this.channel = channel;
+        }
+
+        @Override
+        public String toString() {
+            return target;
+        }
+    }
+}
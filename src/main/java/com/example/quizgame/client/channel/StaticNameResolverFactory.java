@@ -0,0 +1,90 @@
+package com.example.quizgame.client.channel;
+
+import io.grpc.Attributes;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resolves the pool's target to a fixed list of server addresses, one address group per
+ * server, so the channel's load balancer opens a subchannel to each of them.
+ *
+ * Host names are looked up once, when the factory is created, and never refreshed: a server
+ * that moves to a new IP address is only picked up by creating a new pool.
+ */
+final class StaticNameResolverFactory extends NameResolver.Factory {
+    static final String SCHEME = "quizgame";
+
+    private final String authority;
+    private final List<EquivalentAddressGroup> addresses;
+
+    StaticNameResolverFactory(List<String> servers) {
+        List<EquivalentAddressGroup> groups = new ArrayList<>();
+        for (String server : servers) {
+            groups.add(new EquivalentAddressGroup(parseAddress(server)));
+        }
+        this.authority = servers.get(0);
+        this.addresses = Collections.unmodifiableList(groups);
+    }
+
+    /**
+     * Parses {@code host:port} (or {@code [ipv6]:port}) into a socket address, looking up the
+     * host name. Fails if the host cannot be resolved, since an unresolved address would leave
+     * that server failing for the lifetime of the pool.
+     */
+    static InetSocketAddress parseAddress(String server) {
+        int colon = server.lastIndexOf(':');
+        if (colon <= 0 || colon == server.length() - 1) {
+            throw new IllegalArgumentException("Invalid server address '" + server + "', expected host:port");
+        }
+        String host = server.substring(0, colon);
+        if (host.startsWith("[") && host.endsWith("]")) {
+            host = host.substring(1, host.length() - 1);
+        }
+        InetSocketAddress address;
+        try {
+            address = new InetSocketAddress(host, Integer.parseInt(server.substring(colon + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid server address '" + server + "', expected host:port", e);
+        }
+        if (address.isUnresolved()) {
+            throw new IllegalArgumentException("Cannot resolve server address '" + server + "'");
+        }
+        return address;
+    }
+
+    @Override
+    public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+        if (!SCHEME.equals(targetUri.getScheme())) {
+            return null;
+        }
+        return new NameResolver() {
+            @Override
+            public String getServiceAuthority() {
+                return authority;
+            }
+
+            @Override
+            public void start(Listener2 listener) {
+                listener.onResult(ResolutionResult.newBuilder()
+                        .setAddresses(addresses)
+                        .setAttributes(Attributes.EMPTY)
+                        .build());
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        };
+    }
+
+    @Override
+    public String getDefaultScheme() {
+        return SCHEME;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.quizgame.server;
+
+import com.exemple.quizgame.proto.QuestionStats;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-question answer counters and answer-time histograms, kept in a ring of fixed-width
+ * time buckets so stats can be rolled up over any window up to {@link #MAX_WINDOW_SECONDS}.
+ *
+ * The quiz list is fixed, so quiz ids are mapped once to dense indices and all counters live in
+ * preallocated {@link AtomicLongArray}s sized by the number of quizzes. {@link #record} does no
+ * allocation and no locking. When the clock moves into a new bucket the first recording thread
+ * marks it as clearing, zeroes it, then publishes the new epoch. Answers that arrive while a
+ * bucket is clearing are dropped, which is acceptable for analytics, and snapshots skip it.
+ *
+ * Answer times go into a log-linear histogram with {@link #LATENCY_BUCKETS} buckets. Buckets
+ * 0-3 hold exactly 0-3 ms; after that each power-of-two range [2^e, 2^(e+1)) for e = 2..17 is
+ * split into 4 equal sub-buckets (at most ~25% error). Bucket layouts are identical everywhere,
+ * so histograms merge by adding counts index by index.
+ */
+final class AnswerStats {
+    static final int OPTIONS = 4;
+    static final int BUCKET_SECONDS = 10;
+    static final int MAX_WINDOW_SECONDS = 15 * 60;
+    static final int DEFAULT_WINDOW_SECONDS = 60;
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Answer times are clamped just below 2^18 ms (~262 s)
+    private static final int MAX_EXPONENT = 17;
+    // One group of sub-buckets for 0-3 ms, plus one per exponent from 2 to MAX_EXPONENT
+    static final int LATENCY_BUCKETS = MAX_EXPONENT * SUB_BUCKETS;
+    static final long MAX_LATENCY_MILLIS = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private static final long BUCKET_NANOS = TimeUnit.SECONDS.toNanos(BUCKET_SECONDS);
+    private static final int RING_SIZE = MAX_WINDOW_SECONDS / BUCKET_SECONDS;
+    private static final long CLEARING = Long.MIN_VALUE;
+
+    private final int[] quizIds;
+    private final Bucket[] ring = new Bucket[RING_SIZE];
+    private final long originNanos = System.nanoTime();
+
+    /**
+     * @param quizIds the ids of every quiz that will be recorded; other ids are ignored
+     */
+    AnswerStats(int[] quizIds) {
+        this.quizIds = quizIds.clone();
+        Arrays.sort(this.quizIds);
+        for (int i = 1; i < this.quizIds.length; i++) {
+            if (this.quizIds[i] == this.quizIds[i - 1]) {
+                throw new IllegalArgumentException("Duplicate quiz id: " + this.quizIds[i]);
+            }
+        }
+        for (int i = 0; i < RING_SIZE; i++) {
+            ring[i] = new Bucket(this.quizIds.length);
+        }
+    }
+
+    /**
+     * Records one answer. {@code answerTimeMillis} of zero or less means the client did not
+     * report a time, so only the option counter is updated.
+     */
+    void record(int quizId, int answer, long answerTimeMillis) {
+        int index = Arrays.binarySearch(quizIds, quizId);
+        if (index < 0 || answer < 1 || answer > OPTIONS) {
+            return;
+        }
+        Bucket bucket = current(currentEpoch());
+        if (bucket == null) {
+            return;
+        }
+        bucket.answers.getAndIncrement(index * OPTIONS + answer - 1);
+
+        if (answerTimeMillis > 0) {
+            long millis = Math.min(answerTimeMillis, MAX_LATENCY_MILLIS);
+            bucket.latency.getAndIncrement(index * LATENCY_BUCKETS + latencyBucket(millis));
+            bucket.latencySum.getAndAdd(index, millis);
+        }
+    }
+
+    /**
+     * Sums every bucket that falls inside the last {@code windowSeconds} (including the
+     * current, partially filled one) into a {@link QuestionStats} for the given quiz.
+     */
+    QuestionStats snapshot(int quizId, int correctAnswer, int windowSeconds) {
+        long[] answers = new long[OPTIONS];
+        long[] latency = new long[LATENCY_BUCKETS];
+        long latencySum = 0;
+
+        int index = Arrays.binarySearch(quizIds, quizId);
+        if (index >= 0) {
+            long now = currentEpoch();
+            int buckets = (windowSeconds + BUCKET_SECONDS - 1) / BUCKET_SECONDS;
+            for (long epoch = now - buckets + 1; epoch <= now; epoch++) {
+                if (epoch < 0) {
+                    continue;
+                }
+                Bucket bucket = ring[(int) (epoch % RING_SIZE)];
+                // Skips buckets that are stale or still being cleared
+                if (bucket.epoch.get() != epoch) {
+                    continue;
+                }
+                for (int i = 0; i < OPTIONS; i++) {
+                    answers[i] += bucket.answers.get(index * OPTIONS + i);
+                }
+                for (int i = 0; i < LATENCY_BUCKETS; i++) {
+                    latency[i] += bucket.latency.get(index * LATENCY_BUCKETS + i);
+                }
+                latencySum += bucket.latencySum.get(index);
+            }
+        }
+
+        long total = 0;
+        for (long count : answers) {
+            total += count;
+        }
+        long latencyCount = 0;
+        for (long count : latency) {
+            latencyCount += count;
+        }
+
+        QuestionStats.Builder builder = QuestionStats.newBuilder()
+                .setQuizId(quizId)
+                .setTotalAnswers(total)
+                .setCorrectAnswers(correctAnswer >= 1 && correctAnswer <= OPTIONS ? answers[correctAnswer - 1] : 0)
+                .setLatencyCount(latencyCount)
+                .setLatencySumMillis(latencySum)
+                .setLatencyP50Millis(percentile(latency, latencyCount, 0.50))
+                .setLatencyP90Millis(percentile(latency, latencyCount, 0.90))
+                .setLatencyP99Millis(percentile(latency, latencyCount, 0.99));
+        for (long count : answers) {
+            builder.addOptionCounts(count);
+        }
+        for (long count : latency) {
+            builder.addLatencyBuckets(count);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Maps a requested window to the one {@link #snapshot} actually sums: a whole number of
+     * buckets between one bucket and {@link #MAX_WINDOW_SECONDS}, rounded up.
+     */
+    static int clampWindow(int windowSeconds) {
+        if (windowSeconds <= 0) {
+            return DEFAULT_WINDOW_SECONDS;
+        }
+        int buckets = (Math.min(windowSeconds, MAX_WINDOW_SECONDS) + BUCKET_SECONDS - 1) / BUCKET_SECONDS;
+        return Math.max(1, buckets) * BUCKET_SECONDS;
+    }
+
+    private long currentEpoch() {
+        return (System.nanoTime() - originNanos) / BUCKET_NANOS;
+    }
+
+    /**
+     * Returns the bucket for {@code epoch}, resetting it first if it still holds an older epoch,
+     * or {@code null} if another thread is clearing it right now.
+     */
+    private Bucket current(long epoch) {
+        Bucket bucket = ring[(int) (epoch % RING_SIZE)];
+        long seen = bucket.epoch.get();
+        if (seen == epoch) {
+            return bucket;
+        }
+        if (seen != CLEARING && seen < epoch && bucket.epoch.compareAndSet(seen, CLEARING)) {
+            bucket.clear();
+            bucket.epoch.set(epoch);
+            return bucket;
+        }
+        return bucket.epoch.get() == epoch ? bucket : null;
+    }
+
+    static int latencyBucket(long millis) {
+        if (millis < SUB_BUCKETS) {
+            return (int) millis;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(millis);
+        int sub = (int) (millis >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Smallest value that maps to the given histogram bucket.
+     */
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + 1;
+        int sub = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    static long percentile(long[] histogram, long count, double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                // Report the bucket's upper edge so percentiles never understate answer time
+                return i + 1 < histogram.length ? lowerBound(i + 1) - 1 : MAX_LATENCY_MILLIS;
+            }
+        }
+        return MAX_LATENCY_MILLIS;
+    }
+
+    private static final class Bucket {
+        private final AtomicLong epoch = new AtomicLong(-1);
+        private final AtomicLongArray answers;
+        private final AtomicLongArray latency;
+        private final AtomicLongArray latencySum;
+
+        private Bucket(int quizzes) {
+            answers = new AtomicLongArray(quizzes * OPTIONS);
+            latency = new AtomicLongArray(quizzes * LATENCY_BUCKETS);
+            latencySum = new AtomicLongArray(quizzes);
+        }
+
+        private void clear() {
+            for (int i = 0; i < answers.length(); i++) {
+                answers.set(i, 0);
+            }
+            for (int i = 0; i < latency.length(); i++) {
+                latency.set(i, 0);
+            }
+            for (int i = 0; i < latencySum.length(); i++) {
+                latencySum.set(i, 0);
+            }
+        }
+    }
+}
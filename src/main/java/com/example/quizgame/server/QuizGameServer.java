@@ -1,12 +1,17 @@
 package com.example.quizgame.server;
 
 import io.grpc.Server;
-import io.grpc.ServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+
+import java.util.concurrent.TimeUnit;
 
 public class QuizGameServer {
 
     public static void main(String[] args) throws Exception {
-        Server server = ServerBuilder.forPort(50051)
+        // Allow the client channel pool's keepalive pings (every 30s, also while idle)
+        Server server = NettyServerBuilder.forPort(50051)
+                .permitKeepAliveTime(20, TimeUnit.SECONDS)
+                .permitKeepAliveWithoutCalls(true)
                 .addService(new ServiceQuizGame())
                 .build()
                 .start();
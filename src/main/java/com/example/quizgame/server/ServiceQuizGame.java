@@ -6,6 +6,7 @@ import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,9 +14,13 @@ public class ServiceQuizGame extends QuizGameGrpc.QuizGameImplBase {
     private static final Logger logger = LoggerFactory.getLogger(ServiceQuizGame.class);
     private final List<Player> players = new ArrayList<>();
     private final List<Quiz> quizzes = new ArrayList<>();
+    private final AnswerStats answerStats;
+    // Identifies this server process in stats responses, e.g. "12345@host"
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
 
     public ServiceQuizGame() {
         initializeQuizQuestions();
+        answerStats = new AnswerStats(quizzes.stream().mapToInt(Quiz::getId).toArray());
     }
 
     private void initializeQuizQuestions() {
@@ -50,6 +55,7 @@ public class ServiceQuizGame extends QuizGameGrpc.QuizGameImplBase {
                 .build());
 
         quizzes.add(Quiz.newBuilder()
+                .setId(4)
                 .setQuestion("What is the capital of France?")
                 .setAnswer1("Berlin")
                 .setAnswer2("Madrid")
@@ -59,6 +65,7 @@ public class ServiceQuizGame extends QuizGameGrpc.QuizGameImplBase {
                 .build());
 
         quizzes.add(Quiz.newBuilder()
+                .setId(5)
                 .setQuestion("What is the largest planet in our solar system?")
                 .setAnswer1("Earth")
                 .setAnswer2("Jupiter")
@@ -68,6 +75,7 @@ public class ServiceQuizGame extends QuizGameGrpc.QuizGameImplBase {
                 .build());
 
         quizzes.add(Quiz.newBuilder()
+                .setId(6)
                 .setQuestion("What is the chemical symbol for water?")
                 .setAnswer1("H2O")
                 .setAnswer2("O2")
@@ -76,6 +84,12 @@ public class ServiceQuizGame extends QuizGameGrpc.QuizGameImplBase {
                 .setCorrectAnswer(1)
                 .build());
 
+        // Scores and answer stats are keyed by quiz id, so ids must not repeat
+        long distinctIds = quizzes.stream().mapToInt(Quiz::getId).distinct().count();
+        if (distinctIds != quizzes.size()) {
+            throw new IllegalStateException("Quiz ids must be unique");
+        }
+
         logger.info("Initialized {} quiz questions", quizzes.size());
     }
 
@@ -190,6 +204,8 @@ public class ServiceQuizGame extends QuizGameGrpc.QuizGameImplBase {
                 .orElse(null);
 
         if (player != null && quiz != null) {
+            answerStats.record(quiz.getId(), request.getAnswer(), request.getAnswerTimeMillis());
+
             int score = player.getScore();
             if (quiz.getCorrectAnswer() == request.getAnswer()) {
                 score++;
@@ -225,4 +241,43 @@ public class ServiceQuizGame extends QuizGameGrpc.QuizGameImplBase {
         responseObserver.onNext(response);
         responseObserver.onCompleted();
     }
+
+    @Override
+    public void getQuestionStats(GetQuestionStatsRequest request, StreamObserver<GetQuestionStatsResponse> responseObserver) {
+        int windowSeconds = AnswerStats.clampWindow(request.getWindowSeconds());
+        GetQuestionStatsResponse.Builder response = GetQuestionStatsResponse.newBuilder()
+                .setWindowSeconds(windowSeconds)
+                .setNodeId(nodeId);
+
+        if (request.getQuizIdsList().isEmpty()) {
+            quizzes.stream()
+                    .mapToInt(Quiz::getId)
+                    .forEach(id -> response.addStats(questionStats(id, windowSeconds)));
+        } else {
+            for (int quizId : request.getQuizIdsList()) {
+                boolean exists = quizzes.stream().anyMatch(q -> q.getId() == quizId);
+                if (!exists) {
+                    responseObserver.onError(
+                            Status.NOT_FOUND
+                                    .withDescription("Quiz not found with ID: " + quizId)
+                                    .asException()
+                    );
+                    return;
+                }
+                response.addStats(questionStats(quizId, windowSeconds));
+            }
+        }
+
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    private QuestionStats questionStats(int quizId, int windowSeconds) {
+        int correctAnswer = quizzes.stream()
+                .filter(q -> q.getId() == quizId)
+                .findFirst()
+                .map(Quiz::getCorrectAnswer)
+                .orElse(0);
+        return answerStats.snapshot(quizId, correctAnswer, windowSeconds);
+    }
 }
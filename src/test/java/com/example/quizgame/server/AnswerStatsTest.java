@@ -0,0 +1,88 @@
+package com.example.quizgame.server;
+
+import com.exemple.quizgame.proto.QuestionStats;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AnswerStatsTest {
+
+    @Test
+    void latencyBucketBoundaries() {
+        assertEquals(3, AnswerStats.latencyBucket(3));
+        assertEquals(4, AnswerStats.latencyBucket(4));
+        assertEquals(7, AnswerStats.latencyBucket(7));
+        assertEquals(8, AnswerStats.latencyBucket(8));
+        assertEquals(8, AnswerStats.latencyBucket(9));
+        assertEquals(9, AnswerStats.latencyBucket(10));
+        assertEquals(AnswerStats.LATENCY_BUCKETS - 1, AnswerStats.latencyBucket(AnswerStats.MAX_LATENCY_MILLIS));
+    }
+
+    @Test
+    void lowerBoundIsInverseOfLatencyBucket() {
+        for (int bucket = 0; bucket < AnswerStats.LATENCY_BUCKETS; bucket++) {
+            long lower = AnswerStats.lowerBound(bucket);
+            assertEquals(bucket, AnswerStats.latencyBucket(lower));
+            if (bucket > 0) {
+                assertEquals(bucket - 1, AnswerStats.latencyBucket(lower - 1));
+            }
+        }
+    }
+
+    @Test
+    void clampWindowRoundsUpToWholeBuckets() {
+        assertEquals(AnswerStats.DEFAULT_WINDOW_SECONDS, AnswerStats.clampWindow(0));
+        assertEquals(AnswerStats.DEFAULT_WINDOW_SECONDS, AnswerStats.clampWindow(-5));
+        assertEquals(10, AnswerStats.clampWindow(1));
+        assertEquals(10, AnswerStats.clampWindow(10));
+        assertEquals(20, AnswerStats.clampWindow(15));
+        assertEquals(100, AnswerStats.clampWindow(95));
+        assertEquals(AnswerStats.MAX_WINDOW_SECONDS, AnswerStats.clampWindow(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void percentileReportsBucketUpperEdge() {
+        long[] histogram = new long[AnswerStats.LATENCY_BUCKETS];
+        assertEquals(0, AnswerStats.percentile(histogram, 0, 0.5));
+
+        // 9 answers at 5 ms, 1 at 9 ms (bucket [8, 9])
+        histogram[AnswerStats.latencyBucket(5)] = 9;
+        histogram[AnswerStats.latencyBucket(9)] = 1;
+        assertEquals(5, AnswerStats.percentile(histogram, 10, 0.50));
+        assertEquals(5, AnswerStats.percentile(histogram, 10, 0.90));
+        assertEquals(9, AnswerStats.percentile(histogram, 10, 0.99));
+
+        long[] clamped = new long[AnswerStats.LATENCY_BUCKETS];
+        clamped[AnswerStats.LATENCY_BUCKETS - 1] = 1;
+        assertEquals(AnswerStats.MAX_LATENCY_MILLIS, AnswerStats.percentile(clamped, 1, 0.5));
+    }
+
+    @Test
+    void snapshotCountsRecordedAnswers() {
+        AnswerStats stats = new AnswerStats(new int[]{1, 1000});
+        stats.record(1000, 2, 5);
+        stats.record(1000, 2, 9);
+        stats.record(1000, 1, 0);
+        stats.record(7, 1, 5);
+        stats.record(1000, 5, 5);
+
+        QuestionStats snapshot = stats.snapshot(1000, 2, 60);
+        assertEquals(1000, snapshot.getQuizId());
+        assertEquals(3, snapshot.getTotalAnswers());
+        assertEquals(2, snapshot.getCorrectAnswers());
+        assertEquals(1, snapshot.getOptionCounts(0));
+        assertEquals(2, snapshot.getOptionCounts(1));
+        assertEquals(2, snapshot.getLatencyCount());
+        assertEquals(14, snapshot.getLatencySumMillis());
+        assertEquals(AnswerStats.LATENCY_BUCKETS, snapshot.getLatencyBucketsCount());
+
+        assertEquals(0, stats.snapshot(1, 1, 60).getTotalAnswers());
+        assertEquals(0, stats.snapshot(7, 1, 60).getTotalAnswers());
+    }
+
+    @Test
+    void rejectsDuplicateQuizIds() {
+        assertThrows(IllegalArgumentException.class, () -> new AnswerStats(new int[]{1, 2, 1}));
+    }
+}